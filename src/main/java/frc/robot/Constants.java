@@ -16,6 +16,9 @@ public final class Constants {
   public static class OperatorConstants {
     public static final int kDriverControllerPort = 0;
     public static final int kOperatorControllerPort = 1;
+
+    // Operator R2/L2 raw axis value above which the collector/loader runs
+    public static final double kOperatorTriggerThreshold = 0.05;
   }
 
   public static class DriveConstants {
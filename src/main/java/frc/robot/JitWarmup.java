@@ -0,0 +1,227 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package frc.robot;
+
+import edu.wpi.first.wpilibj.Preferences;
+import edu.wpi.first.wpilibj.Timer;
+import edu.wpi.first.wpilibj.smartdashboard.SmartDashboard;
+import edu.wpi.first.wpilibj2.command.Command;
+import edu.wpi.first.wpilibj2.command.CommandScheduler;
+import edu.wpi.first.wpilibj2.command.WrapperCommand;
+import frc.robot.subsystems.Collector;
+import frc.robot.subsystems.Drive;
+import frc.robot.subsystems.Loader;
+import frc.robot.subsystems.Shooter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Warms up the control paths while the robot is disabled so the JIT has compiled them before the
+ * first enabled loop.
+ *
+ * <p>{@link RobotContainer} reads every controller input through {@link #axis} or {@link #button}
+ * and binds every command through {@link #wrap}. During warm-up those inputs are switched to
+ * synthetic values and the wrapped commands are allowed to run while disabled, so each pass drives
+ * the real triggers, bindings, scheduler and commands. Most passes use synthetic inputs and the
+ * rest read the real controllers, so both branches of each input are compiled. All subsystem
+ * outputs are switched off for the whole warm-up, so no motor controller is ever written.
+ *
+ * <p>Each disabled loop runs passes for a fixed time budget rather than a fixed count, so slow
+ * interpreted passes early on do not overrun the loop. Between slices nothing is scheduled and the
+ * inputs read the real controllers.
+ *
+ * <p>Warm-up stops at the end of the last pass or when the robot leaves disabled, whichever comes
+ * first. The duration of the first enabled loop is stored in Preferences under a "warm", "partial"
+ * or "cold" key so they can be compared across boots. Set "WarmUp/Enabled" to false in
+ * Preferences to measure a cold start.
+ */
+public class JitWarmup {
+  private static final String kEnabledKey     = "WarmUp/Enabled";
+  private static final String kWarmLoopKey    = "WarmUp/First Enabled Loop Warm (ms)";
+  private static final String kPartialLoopKey = "WarmUp/First Enabled Loop Partial (ms)";
+  private static final String kColdLoopKey    = "WarmUp/First Enabled Loop Cold (ms)";
+  private static final String kPassesKey      = "WarmUp/Passes At First Enable";
+
+  // Enough invocations for the hot methods to reach the optimizing compiler
+  private static final int kTotalPasses = 20000;
+  // Time spent on passes in each disabled loop, leaving most of the 20 ms loop for everything else
+  private static final double kSliceBudget = 0.008; // seconds
+  // Number of passes in one synthetic input sweep from -1.0 to 1.0 and back
+  private static final int kSweepSteps = 200;
+  // One pass in this many reads the real controllers instead of synthetic inputs
+  private static final int kControllerPassInterval = 4;
+
+  private final Drive m_drive;
+  private final Collector m_collector;
+  private final Loader m_loader;
+  private final Shooter m_shooter;
+  private final List<Command> m_commands = new ArrayList<>();
+  private final boolean m_enabled;
+
+  private int m_passes = 0;
+  private boolean m_running = false;
+  // True only while run() is driving the scheduler, so nothing is scheduled between slices
+  private boolean m_inSlice = false;
+  private boolean m_stopped = false;
+  private boolean m_reported = false;
+
+  // Input source for the current pass
+  private boolean m_synthetic = false;
+  private boolean m_resting = false;
+
+  /**
+   * Creates a new JitWarmup.
+   *
+   * @param drive The drive subsystem
+   * @param collector The collector subsystem
+   * @param loader The loader subsystem
+   * @param shooter The shooter subsystem
+   */
+  public JitWarmup(Drive drive, Collector collector, Loader loader, Shooter shooter) {
+    m_drive = drive;
+    m_collector = collector;
+    m_loader = loader;
+    m_shooter = shooter;
+
+    Preferences.initBoolean(kEnabledKey, true);
+    m_enabled = Preferences.getBoolean(kEnabledKey, true);
+  }
+
+  /**
+   * Returns a controller axis that switches to a synthetic sweep during warm-up.
+   *
+   * @param controller The real controller axis (-1.0 to 1.0)
+   * @param phase Offset into the sweep (0.0 to 1.0) so axes do not move together
+   */
+  public DoubleSupplier axis(DoubleSupplier controller, double phase) {
+    return () -> m_synthetic ? sweep(phase) : controller.getAsDouble();
+  }
+
+  /**
+   * Returns a controller button that switches to a synthetic sweep during warm-up.
+   *
+   * @param controller The real controller button
+   * @param phase Offset into the sweep (0.0 to 1.0) so buttons do not move together
+   */
+  public BooleanSupplier button(BooleanSupplier controller, double phase) {
+    return () -> m_synthetic ? sweep(phase) > 0.0 : controller.getAsBoolean();
+  }
+
+  /** Wraps a command so the scheduler runs it while disabled, but only inside a warm-up slice. */
+  public Command wrap(Command command) {
+    Command wrapped =
+        new WrapperCommand(command) {
+          @Override
+          public boolean runsWhenDisabled() {
+            return m_inSlice;
+          }
+        };
+    m_commands.add(wrapped);
+    return wrapped;
+  }
+
+  /** Runs one slice of the warm-up. Call from disabledPeriodic(). */
+  public void run() {
+    if (m_stopped) {
+      return;
+    }
+    if (!m_enabled) {
+      stop();
+      return;
+    }
+    if (!m_running) {
+      setOutputsEnabled(false);
+      m_running = true;
+    }
+
+    // Always run at least one pass so a slow interpreted pass still makes progress
+    double deadline = Timer.getFPGATimestamp() + kSliceBudget;
+    m_inSlice = true;
+    do {
+      m_synthetic = m_passes % kControllerPassInterval != 0;
+      CommandScheduler.getInstance().run();
+      m_passes++;
+    } while (m_passes < kTotalPasses && Timer.getFPGATimestamp() < deadline);
+
+    // Release every synthetic input so the bindings see a falling edge, then cancel whatever is
+    // still running (the default TeleopDrive) while outputs are off. Between slices the wrapped
+    // commands do not run when disabled and the inputs read the real controllers, so the
+    // scheduler in robotPeriodic() behaves exactly as it does without warm-up.
+    m_synthetic = true;
+    m_resting = true;
+    CommandScheduler.getInstance().run();
+    CommandScheduler.getInstance().cancel(m_commands.toArray(new Command[0]));
+    m_inSlice = false;
+    m_synthetic = false;
+    m_resting = false;
+
+    if (m_passes >= kTotalPasses) {
+      stop();
+    }
+    SmartDashboard.putNumber("WarmUp/Passes", m_passes);
+  }
+
+  /**
+   * Ends the warm-up: cancels the wrapped commands, switches inputs back to the controllers and
+   * turns the subsystem outputs back on. Call from disabledExit(). Later calls are ignored.
+   */
+  public void stop() {
+    if (m_stopped) {
+      return;
+    }
+    m_stopped = true;
+    m_running = false;
+    m_synthetic = false;
+
+    // Cancel while outputs are still off so the end() calls do not touch the motors
+    CommandScheduler.getInstance().cancel(m_commands.toArray(new Command[0]));
+    setOutputsEnabled(true);
+    SmartDashboard.putNumber("WarmUp/Passes", m_passes);
+  }
+
+  /**
+   * Records how long the first enabled loop after boot took. Later calls are ignored.
+   *
+   * @param seconds Duration of the first enabled loop in seconds
+   */
+  public void reportFirstEnabledLoop(double seconds) {
+    if (m_reported) {
+      return;
+    }
+    m_reported = true;
+
+    String key;
+    if (!m_enabled) {
+      key = kColdLoopKey;
+    } else if (m_passes >= kTotalPasses) {
+      key = kWarmLoopKey;
+    } else {
+      key = kPartialLoopKey;
+    }
+
+    double millis = seconds * 1000.0;
+    Preferences.setDouble(key, millis);
+    Preferences.setInt(kPassesKey, m_passes);
+    SmartDashboard.putNumber("WarmUp/First Enabled Loop (ms)", millis);
+  }
+
+  /** Triangle wave over [-1.0, 1.0] so every deadband, clamp and trigger edge is hit. */
+  private double sweep(double phase) {
+    if (m_resting) {
+      return -1.0;
+    }
+    double t = (m_passes / (double) kSweepSteps + phase) % 1.0;
+    return t < 0.5 ? 4.0 * t - 1.0 : 3.0 - 4.0 * t;
+  }
+
+  private void setOutputsEnabled(boolean enabled) {
+    m_drive.setOutputsEnabled(enabled);
+    m_collector.setOutputsEnabled(enabled);
+    m_loader.setOutputsEnabled(enabled);
+    m_shooter.setOutputsEnabled(enabled);
+  }
+}
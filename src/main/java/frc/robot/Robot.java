@@ -5,6 +5,7 @@
 package frc.robot;
 
 import edu.wpi.first.wpilibj.TimedRobot;
+import edu.wpi.first.wpilibj.Timer;
 import edu.wpi.first.wpilibj2.command.Command;
 import edu.wpi.first.wpilibj2.command.CommandScheduler;
 
@@ -18,6 +19,10 @@ public class Robot extends TimedRobot {
 
   private final RobotContainer m_robotContainer;
 
+  // Timing of the first enabled loop since boot, reported to the JIT warm-up
+  private double m_firstEnabledLoopStart = -1.0;
+  private boolean m_firstEnabledLoopTimed = false;
+
   /**
    * This function is run when the robot is first started up and should be used for any
    * initialization code.
@@ -42,14 +47,32 @@ public class Robot extends TimedRobot {
     // and running subsystem periodic() methods.  This must be called from the robot's periodic
     // block in order for anything in the Command-based framework to work.
     CommandScheduler.getInstance().run();
+
+    // Mode init and periodic run earlier in the same loop, so this ends the first enabled loop
+    if (m_firstEnabledLoopStart >= 0.0 && !m_firstEnabledLoopTimed) {
+      m_robotContainer.getJitWarmup()
+          .reportFirstEnabledLoop(Timer.getFPGATimestamp() - m_firstEnabledLoopStart);
+      m_firstEnabledLoopTimed = true;
+    }
   }
 
   /** This function is called once each time the robot enters Disabled mode. */
   @Override
   public void disabledInit() {}
 
+  /** This function is called once each time the robot leaves Disabled mode. */
+  @Override
+  public void disabledExit() {
+    // Runs at the start of the first enabled loop, before the mode init
+    markFirstEnabledLoop();
+    m_robotContainer.getJitWarmup().stop();
+  }
+
+  /** Warms up the control paths until the robot is enabled. */
   @Override
-  public void disabledPeriodic() {}
+  public void disabledPeriodic() {
+    m_robotContainer.getJitWarmup().run();
+  }
 
   /** This autonomous runs the autonomous command selected by your {@link RobotContainer} class. */
   @Override
@@ -98,4 +121,11 @@ public class Robot extends TimedRobot {
   /** This function is called periodically whilst in simulation. */
   @Override
   public void simulationPeriodic() {}
+
+  /** Starts timing the first enabled loop since boot. Later calls are ignored. */
+  private void markFirstEnabledLoop() {
+    if (m_firstEnabledLoopStart < 0.0) {
+      m_firstEnabledLoopStart = Timer.getFPGATimestamp();
+    }
+  }
 }
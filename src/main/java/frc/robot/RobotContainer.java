@@ -16,6 +16,9 @@ import frc.robot.subsystems.Shooter;
 import edu.wpi.first.wpilibj2.command.Command;
 import edu.wpi.first.wpilibj2.command.button.CommandPS4Controller;
 import edu.wpi.first.wpilibj2.command.button.Trigger;
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleSupplier;
+import java.util.function.UnaryOperator;
 
 /**
  * This class is where the bulk of the robot should be declared. Since Command-based is a
@@ -50,29 +53,78 @@ public class RobotContainer {
   private final CommandPS4Controller m_operatorController =
       new CommandPS4Controller(OperatorConstants.kOperatorControllerPort);
 
+  private final JitWarmup m_jitWarmup = new JitWarmup(m_drive, m_collector, m_loader, m_shooter);
+
+  // Controller inputs, switched to synthetic values while the JIT warm-up runs
+  private final DoubleSupplier m_driverRightY =
+      m_jitWarmup.axis(() -> m_driverController.getRightY(), 0.0);
+  private final DoubleSupplier m_driverRightX =
+      m_jitWarmup.axis(() -> m_driverController.getRightX(), 0.25);
+  private final DoubleSupplier m_driverR2 =
+      m_jitWarmup.axis(() -> m_driverController.getR2Axis(), 0.5);
+  private final DoubleSupplier m_driverL2 =
+      m_jitWarmup.axis(() -> m_driverController.getL2Axis(), 0.75);
+  private final DoubleSupplier m_operatorR2 =
+      m_jitWarmup.axis(() -> m_operatorController.getR2Axis(), 0.1);
+  private final DoubleSupplier m_operatorL2 =
+      m_jitWarmup.axis(() -> m_operatorController.getL2Axis(), 0.6);
+  private final BooleanSupplier m_operatorCross =
+      m_jitWarmup.button(m_operatorController.cross(), 0.35);
+
   public RobotContainer() {
     configureBindings();
 
     m_drive.setDefaultCommand(
-        new TeleopDrive(
-            m_drive,
-            () -> m_driverController.getRightY(),
-            () -> m_driverController.getRightX(),
-            () -> m_driverController.getR2Axis(),
-            () -> m_driverController.getL2Axis()));
+        m_jitWarmup.wrap(
+            new TeleopDrive(m_drive, m_driverRightY, m_driverRightX, m_driverR2, m_driverL2)));
   }
 
   private void configureBindings() {
+    bindOperatorControls(
+        m_collector,
+        m_loader,
+        m_shooter,
+        m_operatorR2,
+        m_operatorL2,
+        m_operatorCross,
+        m_jitWarmup::wrap);
+  }
+
+  /**
+   * Binds the operator mechanism controls. The simulated tuning sweep calls this too, so it always
+   * runs the same bindings as the robot.
+   *
+   * @param collector The collector subsystem
+   * @param loader The loader subsystem
+   * @param shooter The shooter subsystem
+   * @param r2 Operator R2 trigger axis (-1.0 to 1.0 raw)
+   * @param l2 Operator L2 trigger axis (-1.0 to 1.0 raw)
+   * @param cross Operator Cross button
+   * @param wrap Applied to each command before it is bound
+   */
+  public static void bindOperatorControls(
+      Collector collector,
+      Loader loader,
+      Shooter shooter,
+      DoubleSupplier r2,
+      DoubleSupplier l2,
+      BooleanSupplier cross,
+      UnaryOperator<Command> wrap) {
     // Operator R2 (analog) — collector speed proportional to trigger pressure
-    new Trigger(() -> m_operatorController.getR2Axis() > 0.05)
-        .whileTrue(new RunCollector(m_collector, () -> m_operatorController.getR2Axis()));
+    new Trigger(() -> r2.getAsDouble() > OperatorConstants.kOperatorTriggerThreshold)
+        .whileTrue(wrap.apply(new RunCollector(collector, r2)));
 
     // Operator L2 (analog) — loader speed proportional to trigger pressure
-    new Trigger(() -> m_operatorController.getL2Axis() > 0.05)
-        .whileTrue(new RunLoader(m_loader, () -> m_operatorController.getL2Axis()));
+    new Trigger(() -> l2.getAsDouble() > OperatorConstants.kOperatorTriggerThreshold)
+        .whileTrue(wrap.apply(new RunLoader(loader, l2)));
 
     // Operator Cross — shooter at fixed speed
-    m_operatorController.cross().whileTrue(new RunShooter(m_shooter));
+    new Trigger(cross).whileTrue(wrap.apply(new RunShooter(shooter)));
+  }
+
+  /** Returns the warm-up that exercises the control paths while disabled. */
+  public JitWarmup getJitWarmup() {
+    return m_jitWarmup;
   }
 
   public Command getAutonomousCommand() {
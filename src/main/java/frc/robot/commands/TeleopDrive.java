@@ -23,6 +23,9 @@ public class TeleopDrive extends Command {
   private final DoubleSupplier m_joystickX;
   private final DoubleSupplier m_r2Trigger;
   private final DoubleSupplier m_l2Trigger;
+  private final double m_joystickDeadband;
+  private final double m_triggerDeadband;
+  private final double m_triggerScale;
 
   /**
    * Creates a new TeleopDrive command.
@@ -39,11 +42,47 @@ public class TeleopDrive extends Command {
       DoubleSupplier joystickX,
       DoubleSupplier r2Trigger,
       DoubleSupplier l2Trigger) {
+    this(
+        drive,
+        joystickY,
+        joystickX,
+        r2Trigger,
+        l2Trigger,
+        DriveConstants.kJoystickDeadband,
+        DriveConstants.kTriggerDeadband,
+        DriveConstants.kTriggerScale);
+  }
+
+  /**
+   * Creates a new TeleopDrive command with explicit control parameters instead of the ones in
+   * {@link DriveConstants}. Used by the simulated tuning sweep.
+   *
+   * @param drive The drive subsystem this command will control
+   * @param joystickY Right joystick Y-axis (-1.0 to 1.0, forward = negative raw)
+   * @param joystickX Right joystick X-axis (-1.0 to 1.0)
+   * @param r2Trigger R2 trigger axis (-1.0 to 1.0 raw)
+   * @param l2Trigger L2 trigger axis (-1.0 to 1.0 raw)
+   * @param joystickDeadband Joystick deadband (0.0 to 1.0)
+   * @param triggerDeadband Trigger deadband (0.0 to 1.0)
+   * @param triggerScale Trigger power multiplier (0.0 to 1.0)
+   */
+  public TeleopDrive(
+      Drive drive,
+      DoubleSupplier joystickY,
+      DoubleSupplier joystickX,
+      DoubleSupplier r2Trigger,
+      DoubleSupplier l2Trigger,
+      double joystickDeadband,
+      double triggerDeadband,
+      double triggerScale) {
     m_drive = drive;
     m_joystickY = joystickY;
     m_joystickX = joystickX;
     m_r2Trigger = r2Trigger;
     m_l2Trigger = l2Trigger;
+    m_joystickDeadband = joystickDeadband;
+    m_triggerDeadband = triggerDeadband;
+    m_triggerScale = triggerScale;
 
     addRequirements(drive);
   }
@@ -62,14 +101,14 @@ public class TeleopDrive extends Command {
     double l2 = (m_l2Trigger.getAsDouble() + 1.0) / 2.0;
 
     // Apply deadbands
-    forward = applyDeadband(forward, DriveConstants.kJoystickDeadband);
-    turn = applyDeadband(turn, DriveConstants.kJoystickDeadband);
-    r2 = applyDeadband(r2, DriveConstants.kTriggerDeadband);
-    l2 = applyDeadband(l2, DriveConstants.kTriggerDeadband);
+    forward = applyDeadband(forward, m_joystickDeadband);
+    turn = applyDeadband(turn, m_joystickDeadband);
+    r2 = applyDeadband(r2, m_triggerDeadband);
+    l2 = applyDeadband(l2, m_triggerDeadband);
 
     // Scale triggers
-    r2 *= DriveConstants.kTriggerScale;
-    l2 *= DriveConstants.kTriggerScale;
+    r2 *= m_triggerScale;
+    l2 *= m_triggerScale;
 
     // Blend: triggers add to/subtract from the forward component
     double forwardComponent = forward + r2 - l2;
@@ -12,6 +12,7 @@ import frc.robot.Constants.CollectorConstants;
 /** Collector (intake) subsystem. Uses a REV SPARK MAX on CAN ID 3. */
 public class Collector extends SubsystemBase {
   private final SparkMax m_motor;
+  private boolean m_outputsEnabled = true;
 
   public Collector() {
     m_motor = new SparkMax(CollectorConstants.kCollectorCanId, MotorType.kBrushless);
@@ -20,17 +21,36 @@ public class Collector extends SubsystemBase {
 
   /** Runs the collector motor at the configured fixed speed. */
   public void run() {
-    m_motor.set(CollectorConstants.kCollectorSpeed);
+    setMotor(CollectorConstants.kCollectorSpeed);
   }
 
   /** Runs the collector motor at a variable speed (0.0 to 1.0). */
   public void run(double speed) {
-    m_motor.set(speed);
+    setMotor(speed);
+  }
+
+  /** Returns the current collector motor output (-1.0 to 1.0). */
+  public double getSpeed() {
+    return m_motor.get();
   }
 
   /** Stops the collector motor. */
   public void stop() {
-    m_motor.set(0.0);
+    setMotor(0.0);
+  }
+
+  /**
+   * Enables or disables writes to the motor. While disabled, commands still run but the motor is
+   * never touched. Used by the JIT warm-up.
+   */
+  public void setOutputsEnabled(boolean enabled) {
+    m_outputsEnabled = enabled;
+  }
+
+  private void setMotor(double speed) {
+    if (m_outputsEnabled) {
+      m_motor.set(speed);
+    }
   }
 
   @Override
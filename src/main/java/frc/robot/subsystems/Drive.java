@@ -32,6 +32,8 @@ public class Drive extends SubsystemBase {
   private final MotorControllerGroup m_leftMotors;
   private final MotorControllerGroup m_rightMotors;
 
+  private boolean m_outputsEnabled = true;
+
   /** Creates a new Drive subsystem. */
   public Drive() {
     m_leftFront  = new Spark(DriveConstants.kLeftFrontMotorPort);
@@ -55,14 +57,37 @@ public class Drive extends SubsystemBase {
   public void tankDrive(double leftSpeed, double rightSpeed) {
     leftSpeed  = Math.max(-1.0, Math.min(1.0, leftSpeed))  * DriveConstants.kMaxSpeed;
     rightSpeed = Math.max(-1.0, Math.min(1.0, rightSpeed)) * DriveConstants.kMaxSpeed;
-    m_leftMotors.set(leftSpeed);
-    m_rightMotors.set(rightSpeed);
+    setMotors(leftSpeed, rightSpeed);
+  }
+
+  /** Returns the current left side output (-1.0 to 1.0), before motor inversion. */
+  public double getLeftSpeed() {
+    return m_leftMotors.get();
+  }
+
+  /** Returns the current right side output (-1.0 to 1.0), before motor inversion. */
+  public double getRightSpeed() {
+    return m_rightMotors.get();
   }
 
   /** Stops all drive motors immediately. */
   public void stop() {
-    m_leftMotors.set(0.0);
-    m_rightMotors.set(0.0);
+    setMotors(0.0, 0.0);
+  }
+
+  /**
+   * Enables or disables writes to the drive motors. While disabled, commands still run but the
+   * motors are never touched. Used by the JIT warm-up.
+   */
+  public void setOutputsEnabled(boolean enabled) {
+    m_outputsEnabled = enabled;
+  }
+
+  private void setMotors(double leftSpeed, double rightSpeed) {
+    if (m_outputsEnabled) {
+      m_leftMotors.set(leftSpeed);
+      m_rightMotors.set(rightSpeed);
+    }
   }
 
   @Override
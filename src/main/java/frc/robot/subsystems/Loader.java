@@ -11,6 +11,7 @@ import frc.robot.Constants.LoaderConstants;
 /** Loader (shooter motor) subsystem. Runs a single PWM motor to shoot game pieces. */
 public class Loader extends SubsystemBase {
   private final Spark m_motor;
+  private boolean m_outputsEnabled = true;
 
   public Loader() {
     m_motor = new Spark(LoaderConstants.kLoaderMotorPort);
@@ -19,17 +20,36 @@ public class Loader extends SubsystemBase {
 
   /** Runs the loader motor at the configured fixed speed. */
   public void run() {
-    m_motor.set(LoaderConstants.kLoaderSpeed);
+    setMotor(LoaderConstants.kLoaderSpeed);
   }
 
   /** Runs the loader motor at a variable speed (0.0 to 1.0). */
   public void run(double speed) {
-    m_motor.set(speed);
+    setMotor(speed);
+  }
+
+  /** Returns the current loader motor output (-1.0 to 1.0). */
+  public double getSpeed() {
+    return m_motor.get();
   }
 
   /** Stops the loader motor. */
   public void stop() {
-    m_motor.set(0.0);
+    setMotor(0.0);
+  }
+
+  /**
+   * Enables or disables writes to the motor. While disabled, commands still run but the motor is
+   * never touched. Used by the JIT warm-up.
+   */
+  public void setOutputsEnabled(boolean enabled) {
+    m_outputsEnabled = enabled;
+  }
+
+  private void setMotor(double speed) {
+    if (m_outputsEnabled) {
+      m_motor.set(speed);
+    }
   }
 
   @Override
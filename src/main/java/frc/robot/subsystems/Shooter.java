@@ -11,6 +11,7 @@ import frc.robot.Constants.ShooterConstants;
 /** Shooter subsystem. Runs a single PWM Spark motor on port 5 to shoot game pieces. */
 public class Shooter extends SubsystemBase {
   private final Spark m_motor;
+  private boolean m_outputsEnabled = true;
 
   public Shooter() {
     m_motor = new Spark(ShooterConstants.kShooterMotorPort);
@@ -19,12 +20,31 @@ public class Shooter extends SubsystemBase {
 
   /** Runs the shooter motor at the configured speed. */
   public void run() {
-    m_motor.set(ShooterConstants.kShooterSpeed);
+    setMotor(ShooterConstants.kShooterSpeed);
+  }
+
+  /** Returns the current shooter motor output (-1.0 to 1.0). */
+  public double getSpeed() {
+    return m_motor.get();
   }
 
   /** Stops the shooter motor. */
   public void stop() {
-    m_motor.set(0.0);
+    setMotor(0.0);
+  }
+
+  /**
+   * Enables or disables writes to the motor. While disabled, commands still run but the motor is
+   * never touched. Used by the JIT warm-up.
+   */
+  public void setOutputsEnabled(boolean enabled) {
+    m_outputsEnabled = enabled;
+  }
+
+  private void setMotor(double speed) {
+    if (m_outputsEnabled) {
+      m_motor.set(speed);
+    }
   }
 
   @Override
@@ -0,0 +1,194 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package frc.robot.tuning;
+
+import edu.wpi.first.math.MathUtil;
+import edu.wpi.first.math.geometry.Pose2d;
+import edu.wpi.first.math.geometry.Translation2d;
+import java.util.ArrayDeque;
+import java.util.Random;
+
+/**
+ * Scripted driver and operator for the tuning sweep.
+ *
+ * <p>The driver follows a fixed route: drive to a collect point and hold operator R2 until the
+ * piece is in, loop back around, then hold operator L2 and Cross at the score point until the shot
+ * is out. Forward comes from driver R2 and turning from the right stick X, like a real driver.
+ *
+ * <p>To make the deadbands and trigger scale matter, the driver reacts to where the robot was
+ * {@link #kReactionSteps} loops ago, the sticks have a small drift and jitter, and released
+ * triggers do not rest exactly at -1.0. All noise comes from the seed, so every trial with the
+ * same seed sees the same driver.
+ */
+final class ScriptedDriver {
+  private enum Action {
+    kDrive,
+    kCollect,
+    kScore
+  }
+
+  private record Waypoint(Translation2d position, Action action) {}
+
+  private static final Translation2d kStart = new Translation2d(0.0, 0.0);
+
+  private static final Waypoint[] kRoute = {
+    new Waypoint(new Translation2d(3.0, 0.0), Action.kCollect),
+    new Waypoint(new Translation2d(4.5, 1.5), Action.kDrive),
+    new Waypoint(new Translation2d(3.0, 3.0), Action.kDrive),
+    new Waypoint(new Translation2d(0.5, 3.0), Action.kScore)
+  };
+
+  // Driver model
+  private static final int kReactionSteps       = 10;   // 200 ms at 20 ms per loop
+  private static final double kArrivalTolerance = 0.25; // meters
+  private static final double kTurnGain         = 1.5;  // stick per radian of heading error
+  private static final double kThrottleGain     = 0.8;  // trigger per meter to the waypoint
+
+  // Controller imperfections
+  private static final double kMaxStickDrift    = 0.04;
+  private static final double kStickJitter      = 0.015;
+  private static final double kTriggerRestNoise = 0.06; // raw axis units above -1.0
+
+  private final Random m_random;
+  private final double m_driftX;
+  private final double m_driftY;
+  private final ArrayDeque<Pose2d> m_seenPoses = new ArrayDeque<>();
+
+  private int m_waypoint = 0;
+  private boolean m_holdingAction = false;
+
+  // Raw controller axes (-1.0 to 1.0) for the current loop
+  private double m_rightY = 0.0;
+  private double m_rightX = 0.0;
+  private double m_r2 = -1.0;
+  private double m_l2 = -1.0;
+  private double m_operatorR2 = -1.0;
+  private double m_operatorL2 = -1.0;
+  private boolean m_operatorCross = false;
+
+  ScriptedDriver(long seed) {
+    m_random = new Random(seed);
+    m_driftX = (m_random.nextDouble() * 2.0 - 1.0) * kMaxStickDrift;
+    m_driftY = (m_random.nextDouble() * 2.0 - 1.0) * kMaxStickDrift;
+  }
+
+  /** Computes this loop's controller inputs from the current robot pose. */
+  void update(Pose2d pose) {
+    m_seenPoses.addLast(pose);
+    Pose2d seen =
+        m_seenPoses.size() > kReactionSteps ? m_seenPoses.removeFirst() : m_seenPoses.getFirst();
+
+    double turn = 0.0;
+    double throttle = 0.0;
+
+    if (!isFinished() && !m_holdingAction) {
+      // Steer from the delayed view of the robot
+      Waypoint target = kRoute[m_waypoint];
+      Translation2d toTarget = target.position().minus(seen.getTranslation());
+
+      if (toTarget.getNorm() < kArrivalTolerance) {
+        if (target.action() == Action.kDrive) {
+          m_waypoint++;
+        } else {
+          m_holdingAction = true;
+        }
+      } else {
+        double headingError =
+            MathUtil.angleModulus(
+                toTarget.getAngle().getRadians() - seen.getRotation().getRadians());
+
+        // Positive stick X turns clockwise, which is a negative heading change
+        turn = MathUtil.clamp(-kTurnGain * headingError, -1.0, 1.0);
+        throttle =
+            MathUtil.clamp(kThrottleGain * toTarget.getNorm(), 0.0, 1.0)
+                * Math.max(0.0, Math.cos(headingError));
+      }
+    }
+
+    m_rightX =
+        MathUtil.clamp(turn + m_driftX + m_random.nextGaussian() * kStickJitter, -1.0, 1.0);
+    m_rightY = MathUtil.clamp(m_driftY + m_random.nextGaussian() * kStickJitter, -1.0, 1.0);
+    m_r2 = throttle > 0.0 ? 2.0 * throttle - 1.0 : restingTrigger();
+    m_l2 = restingTrigger();
+
+    Action action = m_holdingAction ? kRoute[m_waypoint].action() : Action.kDrive;
+    m_operatorR2 = action == Action.kCollect ? 1.0 : restingTrigger();
+    m_operatorL2 = action == Action.kScore ? 1.0 : restingTrigger();
+    m_operatorCross = action == Action.kScore;
+  }
+
+  /** Returns true while the driver is stopped at a collect point holding operator R2. */
+  boolean isCollecting() {
+    return m_holdingAction && kRoute[m_waypoint].action() == Action.kCollect;
+  }
+
+  /** Returns true while the driver is stopped at the score point holding operator L2 and Cross. */
+  boolean isScoring() {
+    return m_holdingAction && kRoute[m_waypoint].action() == Action.kScore;
+  }
+
+  /** Releases the held mechanism inputs and moves on to the next waypoint. */
+  void completeAction() {
+    m_holdingAction = false;
+    m_waypoint++;
+  }
+
+  /** Returns true once every waypoint on the route has been completed. */
+  boolean isFinished() {
+    return m_waypoint >= kRoute.length;
+  }
+
+  /** Returns the distance from a position to the nearest point on the scripted route. */
+  static double distanceToRoute(Translation2d position) {
+    double distance = Double.POSITIVE_INFINITY;
+    Translation2d from = kStart;
+    for (Waypoint waypoint : kRoute) {
+      distance = Math.min(distance, distanceToSegment(position, from, waypoint.position()));
+      from = waypoint.position();
+    }
+    return distance;
+  }
+
+  double getRightY() {
+    return m_rightY;
+  }
+
+  double getRightX() {
+    return m_rightX;
+  }
+
+  double getR2Axis() {
+    return m_r2;
+  }
+
+  double getL2Axis() {
+    return m_l2;
+  }
+
+  double getOperatorR2Axis() {
+    return m_operatorR2;
+  }
+
+  double getOperatorL2Axis() {
+    return m_operatorL2;
+  }
+
+  boolean getOperatorCross() {
+    return m_operatorCross;
+  }
+
+  private double restingTrigger() {
+    return -1.0 + Math.abs(m_random.nextGaussian()) * kTriggerRestNoise;
+  }
+
+  private static double distanceToSegment(Translation2d p, Translation2d a, Translation2d b) {
+    Translation2d ab = b.minus(a);
+    double lengthSquared = ab.getX() * ab.getX() + ab.getY() * ab.getY();
+    Translation2d ap = p.minus(a);
+    double t =
+        MathUtil.clamp((ap.getX() * ab.getX() + ap.getY() * ab.getY()) / lengthSquared, 0.0, 1.0);
+    return p.getDistance(a.plus(ab.times(t)));
+  }
+}
@@ -0,0 +1,316 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package frc.robot.tuning;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Desktop tool that tunes driver-control constants in simulation.
+ *
+ * <p>Evaluates a grid or random search of {@link TuningParameters}. Each candidate is run over
+ * several driver seeds, each as a separate {@link SweepTrial} process, one process per core.
+ * Trials share nothing, so throughput scales with core count. Candidates are ranked by mean score
+ * and written as a CSV with the spread across seeds. The best rows are printed next to the current
+ * {@code Constants} values.
+ *
+ * <p>If any trial fails or times out, its candidate is written as failed at the bottom of the
+ * table and the runner exits with a non-zero status.
+ *
+ * <p>Run through Gradle: {@code ./gradlew tuningSweep -Psweep.mode=random -Psweep.samples=500}.
+ * Arguments are {@code key=value} pairs: mode (grid or random), samples, seed, seeds, jobs and
+ * output.
+ */
+public final class SweepRunner {
+  // Grid search values
+  private static final double[] kDeadbandGrid     = {0.02, 0.05, 0.08, 0.11};
+  private static final double[] kTriggerScaleGrid = {0.6, 0.7, 0.8, 0.9, 1.0};
+
+  // Random search ranges
+  private static final double kMaxDeadband     = 0.15;
+  private static final double kMinTriggerScale = 0.4;
+
+  private static final int kRowsToPrint = 10;
+
+  // A trial simulates 30 s much faster than real time; anything this slow is stuck
+  private static final long kTrialTimeoutSeconds = 120;
+
+  // Trial processes still running, killed if the sweep itself is interrupted
+  private static final Set<Process> s_liveTrials = ConcurrentHashMap.newKeySet();
+
+  /** All trial results for one candidate, and how many of its trials failed. */
+  private record Row(TuningParameters params, List<SweepTrial.Result> results, int failures) {
+    boolean failed() {
+      return failures > 0;
+    }
+
+    double mean(ToDoubleFunction<SweepTrial.Result> metric) {
+      return results.stream().mapToDouble(metric).average().orElse(Double.NaN);
+    }
+
+    double stdDev(ToDoubleFunction<SweepTrial.Result> metric) {
+      double mean = mean(metric);
+      return Math.sqrt(
+          results.stream()
+              .mapToDouble(result -> Math.pow(metric.applyAsDouble(result) - mean, 2))
+              .average()
+              .orElse(Double.NaN));
+    }
+
+    long finishedRuns() {
+      return results.stream().filter(SweepTrial.Result::finished).count();
+    }
+  }
+
+  private SweepRunner() {
+    throw new UnsupportedOperationException("This is a utility class!");
+  }
+
+  public static void main(String... args) throws IOException, InterruptedException {
+    Map<String, String> options = new HashMap<>();
+    for (String arg : args) {
+      String[] pair = arg.split("=", 2);
+      options.put(pair[0], pair.length > 1 ? pair[1] : "");
+    }
+
+    String mode = options.getOrDefault("mode", "grid");
+    int samples = Integer.parseInt(options.getOrDefault("samples", "200"));
+    long seed = Long.parseLong(options.getOrDefault("seed", "1"));
+    int seeds = Integer.parseInt(options.getOrDefault("seeds", "5"));
+    int jobs =
+        Integer.parseInt(
+            options.getOrDefault(
+                "jobs", Integer.toString(Runtime.getRuntime().availableProcessors())));
+    Path output = Path.of(options.getOrDefault("output", "build/sweep/results.csv"));
+
+    List<TuningParameters> candidates = new ArrayList<>();
+    if (mode.equals("grid")) {
+      addGrid(candidates);
+    } else if (mode.equals("random")) {
+      addRandom(candidates, samples, new Random(seed));
+    } else {
+      throw new IllegalArgumentException("Unknown sweep mode: " + mode);
+    }
+
+    // Always score the current values so the table shows how much there is to gain
+    TuningParameters baseline = TuningParameters.fromConstants();
+    if (!candidates.contains(baseline)) {
+      candidates.add(0, baseline);
+    }
+
+    System.out.printf(
+        "Running %d candidates x %d seeds (%s) on %d parallel jobs%n",
+        candidates.size(), seeds, mode, jobs);
+    long start = System.nanoTime();
+
+    // Kill any running trials if the sweep is interrupted, e.g. Ctrl+C on the Gradle task
+    Runtime.getRuntime()
+        .addShutdownHook(new Thread(() -> s_liveTrials.forEach(Process::destroyForcibly)));
+
+    // Every candidate sees the same set of driver seeds so they are compared on equal terms
+    ExecutorService pool = Executors.newFixedThreadPool(jobs);
+    List<List<Future<SweepTrial.Result>>> futures = new ArrayList<>();
+    for (TuningParameters params : candidates) {
+      List<Future<SweepTrial.Result>> candidateFutures = new ArrayList<>();
+      for (int i = 0; i < seeds; i++) {
+        long trialSeed = seed + i;
+        candidateFutures.add(pool.submit(() -> runTrial(params, trialSeed)));
+      }
+      futures.add(candidateFutures);
+    }
+
+    List<Row> rows = new ArrayList<>();
+    int failures = 0;
+    for (int i = 0; i < candidates.size(); i++) {
+      List<SweepTrial.Result> results = new ArrayList<>();
+      int candidateFailures = 0;
+      for (Future<SweepTrial.Result> future : futures.get(i)) {
+        try {
+          results.add(future.get());
+        } catch (ExecutionException e) {
+          System.err.println("Trial failed for " + candidates.get(i) + ": " + e.getCause());
+          candidateFailures++;
+        }
+      }
+      rows.add(new Row(candidates.get(i), results, candidateFailures));
+      failures += candidateFailures;
+    }
+    pool.shutdown();
+
+    double elapsed = (System.nanoTime() - start) / 1e9;
+    int trials = candidates.size() * seeds;
+    rows.sort(
+        Comparator.comparing(Row::failed)
+            .thenComparingDouble(row -> row.mean(SweepTrial.Result::score)));
+    writeCsv(output, rows, seeds);
+    printSummary(rows, baseline);
+    System.out.printf(
+        "%d trials in %.1f s (%.2f trials/s), results written to %s%n",
+        trials, elapsed, trials / elapsed, output.toAbsolutePath());
+
+    if (failures > 0) {
+      System.err.printf("%d of %d trials failed%n", failures, trials);
+      System.exit(1);
+    }
+  }
+
+  private static void addGrid(List<TuningParameters> candidates) {
+    for (double joystickDeadband : kDeadbandGrid) {
+      for (double triggerDeadband : kDeadbandGrid) {
+        for (double triggerScale : kTriggerScaleGrid) {
+          candidates.add(new TuningParameters(joystickDeadband, triggerDeadband, triggerScale));
+        }
+      }
+    }
+  }
+
+  private static void addRandom(List<TuningParameters> candidates, int samples, Random random) {
+    for (int i = 0; i < samples; i++) {
+      candidates.add(
+          new TuningParameters(
+              random.nextDouble() * kMaxDeadband,
+              random.nextDouble() * kMaxDeadband,
+              kMinTriggerScale + random.nextDouble() * (1.0 - kMinTriggerScale)));
+    }
+  }
+
+  /**
+   * Runs one trial in a fresh JVM using this JVM's classpath and native library path. Trial output
+   * goes to a temporary file so the child never blocks on a full pipe, and a trial that does not
+   * finish within {@link #kTrialTimeoutSeconds} is killed and reported as failed.
+   */
+  private static SweepTrial.Result runTrial(TuningParameters params, long seed)
+      throws IOException, InterruptedException {
+    List<String> command = new ArrayList<>();
+    command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+    // Size the trial JVM's GC and compiler thread pools as if it had one core. This does not pin
+    // the process; the number of parallel jobs is what bounds CPU use.
+    command.add("-XX:ActiveProcessorCount=1");
+    command.add("-XX:+UseSerialGC");
+    command.add("-Xmx256m");
+    command.add("-Djava.library.path=" + System.getProperty("java.library.path"));
+    command.add("-cp");
+    command.add(System.getProperty("java.class.path"));
+    command.add(SweepTrial.class.getName());
+    command.add(Long.toString(seed));
+    command.addAll(List.of(params.toArgs()));
+
+    Path log = Files.createTempFile("sweep-trial-", ".log");
+    List<String> lines;
+    int exitCode;
+    try {
+      Process process =
+          new ProcessBuilder(command)
+              .redirectErrorStream(true)
+              .redirectOutput(log.toFile())
+              .start();
+      s_liveTrials.add(process);
+      try {
+        if (!process.waitFor(kTrialTimeoutSeconds, TimeUnit.SECONDS)) {
+          throw new IllegalStateException(
+              "Trial timed out after " + kTrialTimeoutSeconds + " s and was killed");
+        }
+        exitCode = process.exitValue();
+      } finally {
+        // Also covers this pool thread being interrupted while waiting
+        process.destroyForcibly();
+        s_liveTrials.remove(process);
+      }
+      lines = Files.readAllLines(log, StandardCharsets.UTF_8);
+    } finally {
+      Files.deleteIfExists(log);
+    }
+
+    SweepTrial.Result result = null;
+    String lastLine = "";
+    for (String line : lines) {
+      if (SweepTrial.Result.isResultLine(line)) {
+        result = SweepTrial.Result.parse(line);
+      } else if (!line.isBlank()) {
+        lastLine = line;
+      }
+    }
+
+    if (result == null) {
+      throw new IllegalStateException(
+          "Trial exited with code " + exitCode + " and no result: " + lastLine);
+    }
+    return result;
+  }
+
+  private static void writeCsv(Path output, List<Row> rows, int seeds) throws IOException {
+    if (output.getParent() != null) {
+      Files.createDirectories(output.getParent());
+    }
+    try (PrintWriter writer =
+        new PrintWriter(Files.newBufferedWriter(output, StandardCharsets.UTF_8))) {
+      writer.println(
+          "rank,status,meanScore,scoreStdDev,meanRmsErrorMeters,meanCycleTimeSeconds,"
+              + "finishedRuns,"
+              + TuningParameters.kHeader);
+      for (int i = 0; i < rows.size(); i++) {
+        Row row = rows.get(i);
+        writer.println(
+            String.format(
+                Locale.ROOT,
+                "%s,%s,%.4f,%.4f,%.4f,%.2f,%d/%d,%s",
+                row.failed() ? "" : Integer.toString(i + 1),
+                row.failed() ? "FAILED " + row.failures() + "/" + seeds : "ok",
+                row.mean(SweepTrial.Result::score),
+                row.stdDev(SweepTrial.Result::score),
+                row.mean(SweepTrial.Result::rmsError),
+                row.mean(SweepTrial.Result::cycleTime),
+                row.finishedRuns(),
+                seeds,
+                row.params().toCsv()));
+      }
+    }
+  }
+
+  private static void printSummary(List<Row> rows, TuningParameters baseline) {
+    String format = "%5s  %8s  %8s  %8s  %8s  %8s  %8s  %8s%n";
+    System.out.printf(
+        format, "rank", "score", "+/-", "rmsErr", "cycle", "joyDb", "trigDb", "trigScl");
+
+    for (int i = 0; i < rows.size(); i++) {
+      Row row = rows.get(i);
+      boolean isBaseline = row.params().equals(baseline);
+      if (i >= kRowsToPrint && !isBaseline) {
+        continue;
+      }
+      String rank = row.failed() ? "FAIL" : Integer.toString(i + 1);
+      System.out.printf(
+          Locale.ROOT,
+          format,
+          rank + (isBaseline ? "*" : ""),
+          String.format(Locale.ROOT, "%.3f", row.mean(SweepTrial.Result::score)),
+          String.format(Locale.ROOT, "%.3f", row.stdDev(SweepTrial.Result::score)),
+          String.format(Locale.ROOT, "%.3f", row.mean(SweepTrial.Result::rmsError)),
+          String.format(Locale.ROOT, "%.2f", row.mean(SweepTrial.Result::cycleTime)),
+          String.format(Locale.ROOT, "%.3f", row.params().joystickDeadband()),
+          String.format(Locale.ROOT, "%.3f", row.params().triggerDeadband()),
+          String.format(Locale.ROOT, "%.3f", row.params().triggerScale()));
+    }
+    System.out.println("* current Constants values");
+  }
+}
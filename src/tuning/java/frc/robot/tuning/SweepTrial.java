@@ -0,0 +1,187 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package frc.robot.tuning;
+
+import edu.wpi.first.hal.HAL;
+import edu.wpi.first.wpilibj.DriverStation;
+import edu.wpi.first.wpilibj.simulation.DifferentialDrivetrainSim;
+import edu.wpi.first.wpilibj.simulation.DifferentialDrivetrainSim.KitbotGearing;
+import edu.wpi.first.wpilibj.simulation.DifferentialDrivetrainSim.KitbotMotor;
+import edu.wpi.first.wpilibj.simulation.DifferentialDrivetrainSim.KitbotWheelSize;
+import edu.wpi.first.wpilibj.simulation.DriverStationSim;
+import edu.wpi.first.wpilibj.simulation.SimHooks;
+import edu.wpi.first.wpilibj2.command.CommandScheduler;
+import frc.robot.RobotContainer;
+import frc.robot.commands.TeleopDrive;
+import frc.robot.subsystems.Collector;
+import frc.robot.subsystems.Drive;
+import frc.robot.subsystems.Loader;
+import frc.robot.subsystems.Shooter;
+import java.util.Locale;
+import java.util.function.UnaryOperator;
+
+/**
+ * Runs one simulated copy of the robot code for the tuning sweep.
+ *
+ * <p>Each trial runs in its own JVM because {@link CommandScheduler} and the HAL are singletons.
+ * The real subsystems and commands are fed by a {@link ScriptedDriver}. The operator controls are
+ * bound with {@link RobotContainer#bindOperatorControls}, the same method the robot uses, and
+ * TeleopDrive is built with the candidate constants. Drive outputs go into a kitbot
+ * drivetrain model. The collector, loader and shooter use a simple progress model: the piece
+ * moves at a rate proportional to motor output, and the shooter flywheel spins up with a first
+ * order lag.
+ *
+ * <p>Prints one line to stdout: {@code RESULT <score> <rmsErrorMeters> <cycleTimeSeconds>
+ * <finished>}. Lower scores are better.
+ *
+ * <p>Usage: {@code SweepTrial <seed> <joystickDeadband> <triggerDeadband> <triggerScale>}
+ */
+public final class SweepTrial {
+  /**
+   * Metrics from one trial.
+   *
+   * @param score Cycle time plus weighted path error; lower is better
+   * @param rmsError RMS distance from the scripted route in meters
+   * @param cycleTime Seconds to finish the route, or the timeout if it never finished
+   * @param finished Whether the route was finished before the timeout
+   */
+  public record Result(double score, double rmsError, double cycleTime, boolean finished) {
+    private static final String kPrefix = "RESULT ";
+
+    /** Returns the result as the line a trial prints to stdout. */
+    public String toLine() {
+      return String.format(
+          Locale.ROOT, "%s%.6f %.6f %.6f %b", kPrefix, score, rmsError, cycleTime, finished);
+    }
+
+    /** Returns true if the line is a result printed by {@link #toLine()}. */
+    public static boolean isResultLine(String line) {
+      return line.startsWith(kPrefix);
+    }
+
+    /** Parses a line printed by {@link #toLine()}. */
+    public static Result parse(String line) {
+      String[] fields = line.substring(kPrefix.length()).trim().split(" ");
+      return new Result(
+          Double.parseDouble(fields[0]),
+          Double.parseDouble(fields[1]),
+          Double.parseDouble(fields[2]),
+          Boolean.parseBoolean(fields[3]));
+    }
+  }
+
+  private static final double kLoopPeriod = 0.02; // seconds
+  private static final double kTimeout    = 30.0; // seconds
+
+  // Seconds of cycle time one meter of RMS path error is worth in the score
+  private static final double kErrorWeight = 10.0;
+
+  // Mechanism model
+  private static final double kIntakeRate           = 1.0; // pieces per second at full output
+  private static final double kFeedRate             = 1.0; // shots per second at full output
+  private static final double kFlywheelTimeConstant = 0.4; // seconds
+
+  private final TuningParameters m_params;
+  private final ScriptedDriver m_driver;
+
+  private SweepTrial(TuningParameters params, long seed) {
+    m_params = params;
+    m_driver = new ScriptedDriver(seed);
+  }
+
+  public static void main(String... args) {
+    long seed = Long.parseLong(args[0]);
+    TuningParameters params = TuningParameters.fromArgs(args, 1);
+
+    if (!HAL.initialize(500, 0)) {
+      throw new IllegalStateException("Failed to initialize the HAL");
+    }
+    DriverStation.silenceJoystickConnectionWarning(true);
+    SimHooks.pauseTiming();
+
+    DriverStationSim.setDsAttached(true);
+    DriverStationSim.setAutonomous(false);
+    DriverStationSim.setEnabled(true);
+    DriverStationSim.notifyNewData();
+    DriverStation.refreshData();
+
+    System.out.println(new SweepTrial(params, seed).run().toLine());
+
+    // HAL and vendor threads keep the JVM alive otherwise
+    System.exit(0);
+  }
+
+  private Result run() {
+    Drive drive = new Drive();
+    Collector collector = new Collector();
+    Loader loader = new Loader();
+    Shooter shooter = new Shooter();
+
+    drive.setDefaultCommand(
+        new TeleopDrive(
+            drive,
+            m_driver::getRightY,
+            m_driver::getRightX,
+            m_driver::getR2Axis,
+            m_driver::getL2Axis,
+            m_params.joystickDeadband(),
+            m_params.triggerDeadband(),
+            m_params.triggerScale()));
+
+    RobotContainer.bindOperatorControls(
+        collector,
+        loader,
+        shooter,
+        m_driver::getOperatorR2Axis,
+        m_driver::getOperatorL2Axis,
+        m_driver::getOperatorCross,
+        UnaryOperator.identity());
+
+    DifferentialDrivetrainSim drivetrain =
+        DifferentialDrivetrainSim.createKitbotSim(
+            KitbotMotor.kDualCIMPerSide, KitbotGearing.k10p71, KitbotWheelSize.kSixInch, null);
+
+    double intakeProgress = 0.0;
+    double shotProgress = 0.0;
+    double flywheel = 0.0;
+    double squaredErrorSum = 0.0;
+    int samples = 0;
+    double time = 0.0;
+
+    while (!m_driver.isFinished() && time < kTimeout) {
+      m_driver.update(drivetrain.getPose());
+      CommandScheduler.getInstance().run();
+
+      drivetrain.setInputs(drive.getLeftSpeed() * 12.0, drive.getRightSpeed() * 12.0);
+      drivetrain.update(kLoopPeriod);
+
+      flywheel += (shooter.getSpeed() - flywheel) * kLoopPeriod / kFlywheelTimeConstant;
+      if (m_driver.isCollecting()) {
+        intakeProgress += collector.getSpeed() * kIntakeRate * kLoopPeriod;
+        if (intakeProgress >= 1.0) {
+          intakeProgress = 0.0;
+          m_driver.completeAction();
+        }
+      } else if (m_driver.isScoring()) {
+        shotProgress += loader.getSpeed() * flywheel * kFeedRate * kLoopPeriod;
+        if (shotProgress >= 1.0) {
+          shotProgress = 0.0;
+          m_driver.completeAction();
+        }
+      }
+
+      double error = ScriptedDriver.distanceToRoute(drivetrain.getPose().getTranslation());
+      squaredErrorSum += error * error;
+      samples++;
+
+      SimHooks.stepTiming(kLoopPeriod);
+      time += kLoopPeriod;
+    }
+
+    double rmsError = Math.sqrt(squaredErrorSum / Math.max(1, samples));
+    double score = time + kErrorWeight * rmsError;
+    return new Result(score, rmsError, time, m_driver.isFinished());
+  }
+}
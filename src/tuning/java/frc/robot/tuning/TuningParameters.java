@@ -0,0 +1,64 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package frc.robot.tuning;
+
+import frc.robot.Constants.DriveConstants;
+import java.util.Locale;
+
+/**
+ * One set of constant values evaluated by the tuning sweep.
+ *
+ * <p>Mechanism speeds are not tuned by this sweep. The mechanism model in {@link SweepTrial} has no
+ * validated cost for running faster, so it cannot give useful values for kCollectorSpeed,
+ * kLoaderSpeed or kShooterSpeed. Those still have to be tuned on the robot.
+ *
+ * @param joystickDeadband Candidate for {@link DriveConstants#kJoystickDeadband}
+ * @param triggerDeadband Candidate for {@link DriveConstants#kTriggerDeadband}
+ * @param triggerScale Candidate for {@link DriveConstants#kTriggerScale}
+ */
+public record TuningParameters(
+    double joystickDeadband, double triggerDeadband, double triggerScale) {
+
+  /** Column names, in the same order as {@link #toArgs()}. */
+  public static final String kHeader = "joystickDeadband,triggerDeadband,triggerScale";
+
+  /** Returns the values currently in {@code Constants}. */
+  public static TuningParameters fromConstants() {
+    return new TuningParameters(
+        DriveConstants.kJoystickDeadband,
+        DriveConstants.kTriggerDeadband,
+        DriveConstants.kTriggerScale);
+  }
+
+  /**
+   * Parses the values written by {@link #toArgs()}.
+   *
+   * @param args Command line arguments, starting at the first parameter
+   * @param offset Index of the first parameter in {@code args}
+   */
+  public static TuningParameters fromArgs(String[] args, int offset) {
+    return new TuningParameters(
+        Double.parseDouble(args[offset]),
+        Double.parseDouble(args[offset + 1]),
+        Double.parseDouble(args[offset + 2]));
+  }
+
+  /** Returns the values as command line arguments for a trial process. */
+  public String[] toArgs() {
+    return new String[] {
+      Double.toString(joystickDeadband),
+      Double.toString(triggerDeadband),
+      Double.toString(triggerScale)
+    };
+  }
+
+  /** Returns the values as one CSV row matching {@link #kHeader}. */
+  public String toCsv() {
+    return String.format(
+        Locale.ROOT,
+        "%.3f,%.3f,%.3f",
+        joystickDeadband, triggerDeadband, triggerScale);
+  }
+}